@@ -0,0 +1,165 @@
+package listbench;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**JMH benchmark of MyArrayList against MyIntArrayList on its scalar and its Vector API kernels.
+ * JMH does not accept benchmarks in the default package, where the lists live, and a named package cannot
+ * import from it, so the lists are reached through constant method handles, which the JIT inlines like
+ * direct calls. MyArrayList has no aggregates, so its sum, max and fill are the get and set loops a caller
+ * would write.*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class ListBenchmark {
+
+    private static final MethodHandle OBJECT_ADD;
+    private static final MethodHandle OBJECT_REMOVE;
+    private static final MethodHandle OBJECT_GET;
+    private static final MethodHandle OBJECT_SET;
+    private static final MethodHandle OBJECT_INDEX_OF;
+    private static final MethodHandle INT_ADD;
+    private static final MethodHandle INT_REMOVE;
+    private static final MethodHandle INT_INDEX_OF;
+    private static final MethodHandle INT_SUM;
+    private static final MethodHandle INT_MAX;
+    private static final MethodHandle INT_FILL;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup   = MethodHandles.lookup();
+            Class<?>             objects  = Class.forName("ListInterface");
+            Class<?>             ints     = Class.forName("MyIntArrayList");
+            OBJECT_ADD      = lookup.findVirtual(objects, "add", MethodType.methodType(void.class, int.class, Object.class))
+                                    .asType(MethodType.methodType(void.class, Object.class, int.class, int.class));
+            OBJECT_REMOVE   = lookup.findVirtual(objects, "remove", MethodType.methodType(Object.class, int.class))
+                                    .asType(MethodType.methodType(int.class, Object.class, int.class));
+            OBJECT_GET      = lookup.findVirtual(objects, "get", MethodType.methodType(Object.class, int.class))
+                                    .asType(MethodType.methodType(int.class, Object.class, int.class));
+            OBJECT_SET      = lookup.findVirtual(objects, "set", MethodType.methodType(Object.class, int.class, Object.class))
+                                    .asType(MethodType.methodType(Object.class, Object.class, int.class, int.class));
+            OBJECT_INDEX_OF = lookup.findVirtual(objects, "indexOf", MethodType.methodType(int.class, Object.class))
+                                    .asType(MethodType.methodType(int.class, Object.class, int.class));
+            INT_ADD         = lookup.findVirtual(ints, "addInt", MethodType.methodType(void.class, int.class, int.class))
+                                    .asType(MethodType.methodType(void.class, Object.class, int.class, int.class));
+            INT_REMOVE      = lookup.findVirtual(ints, "removeInt", MethodType.methodType(int.class, int.class))
+                                    .asType(MethodType.methodType(int.class, Object.class, int.class));
+            INT_INDEX_OF    = lookup.findVirtual(ints, "indexOfInt", MethodType.methodType(int.class, int.class))
+                                    .asType(MethodType.methodType(int.class, Object.class, int.class));
+            INT_SUM         = lookup.findVirtual(ints, "sum", MethodType.methodType(long.class))
+                                    .asType(MethodType.methodType(long.class, Object.class));
+            INT_MAX         = lookup.findVirtual(ints, "max", MethodType.methodType(int.class))
+                                    .asType(MethodType.methodType(int.class, Object.class));
+            INT_FILL        = lookup.findVirtual(ints, "fill", MethodType.methodType(void.class, int.class))
+                                    .asType(MethodType.methodType(void.class, Object.class, int.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /** MyArrayList, or MyIntArrayList on its scalar or its vector kernels.*/
+    @Param({"MyArrayList", "scalar", "vector"})
+    public String list;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private Object  _list;
+    private boolean _boxed;
+    private int     _middle;
+
+    @Setup
+    public void setUp () throws Throwable {
+        _boxed  = list.equals("MyArrayList");
+        _middle = size / 2;
+        if (_boxed) {
+            _list = Class.forName("MyArrayList").getDeclaredConstructor().newInstance();
+        } else {
+            Constructor<?> kernels  = Class.forName(list.equals("vector") ? "VectorIntKernels" : "ScalarIntKernels")
+                                           .getDeclaredConstructor();
+            Constructor<?> intList  = Class.forName("MyIntArrayList")
+                                           .getDeclaredConstructor(Class.forName("IntKernels"));
+            kernels.setAccessible(true);
+            intList.setAccessible(true);
+            _list = intList.newInstance(kernels.newInstance());
+        }
+        for (int i = 0; i < size; i += 1) {
+            add(i, i);
+        }
+    }
+
+    /** Insert in the middle of the list and remove again, each shifting half the elements.*/
+    @Benchmark
+    public int addRemove () throws Throwable {
+        add(_middle, -1);
+        return _boxed ? (int) OBJECT_REMOVE.invokeExact(_list, _middle) : (int) INT_REMOVE.invokeExact(_list, _middle);
+    }
+
+    /** Search for a value that is not present, scanning the whole list.*/
+    @Benchmark
+    public int indexOfMissing () throws Throwable {
+        return _boxed ? (int) OBJECT_INDEX_OF.invokeExact(_list, -1) : (int) INT_INDEX_OF.invokeExact(_list, -1);
+    }
+
+    @Benchmark
+    public long sum () throws Throwable {
+        if (!_boxed) {
+            return (long) INT_SUM.invokeExact(_list);
+        }
+        long total = 0;
+        for (int i = 0; i < size; i += 1) {
+            total += (int) OBJECT_GET.invokeExact(_list, i);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int max () throws Throwable {
+        if (!_boxed) {
+            return (int) INT_MAX.invokeExact(_list);
+        }
+        int result = (int) OBJECT_GET.invokeExact(_list, 0);
+        for (int i = 1; i < size; i += 1) {
+            result = Math.max(result, (int) OBJECT_GET.invokeExact(_list, i));
+        }
+        return result;
+    }
+
+    /** Fill with a small value, so MyArrayList stores a cached Integer rather than allocating.*/
+    @Benchmark
+    public void fill () throws Throwable {
+        if (!_boxed) {
+            INT_FILL.invokeExact(_list, 7);
+            return;
+        }
+        for (int i = 0; i < size; i += 1) {
+            Object removed = OBJECT_SET.invokeExact(_list, i, 7);
+        }
+    }
+
+    private void add (int index, int element) throws Throwable {
+        if (_boxed) {
+            OBJECT_ADD.invokeExact(_list, index, element);
+        } else {
+            INT_ADD.invokeExact(_list, index, element);
+        }
+    }
+}
@@ -1,17 +1,21 @@
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.PrintStream;
+import java.io.IOException;
 import java.util.Random;
 
 /**Test-case list generator for implementation of ListInterface against a known, correct implementation.*/
 
 public class CreateList {
 
+    /** On average one operation in this many is a sum, min or max.*/
+    private static final int AGGREGATE_ODDS = 16;
+
+    /** On average one operation in this many is a fill.*/
+    private static final int FILL_ODDS      = 8192;
+
     private int              totalOps;
     private Random           random;
-    private PrintStream      output;
+    private OperationSink    output;
     private int              line;
-    private ListInterface<Integer> list;
+    private ListWrapper<Integer> list;
 
     public static void main (String[] args) {
         if (args.length != 3) {
@@ -27,61 +31,90 @@ public class CreateList {
         } catch (NumberFormatException e) {
             showUsageAndExit();
         }
-        // Create the list-creator and start it.
-        CreateList creator = new CreateList(numOps, seed, outputPathname);
+        // Open the output file.
+        OperationSink output = null;
+        try {
+            output = new SequenceWriter(SequenceFile.openOutput(outputPathname));
+        } catch (IOException e) {
+            System.err.printf("ERROR: Could not open file %s\n", outputPathname);
+            showUsageAndExit();
+        }
+        // Create the list-creator and start it, then close the file, which fails if any write did.
+        CreateList creator = new CreateList(numOps, seed, output);
         creator.go();
+        try {
+            output.close();
+        } catch (IOException e) {
+            System.err.printf("ERROR: Could not write file %s\n", outputPathname);
+            System.exit(1);
+        }
     }
 
-    public CreateList (int numOps, long seed, String outputPathname) {
+    /** Create a list-creator that writes its operations to a sink, such as a SequenceWriter or an OperationQueue.
+     * The sink is left open; closing it is up to the caller.*/
+    public CreateList (int numOps, long seed, OperationSink outputSink) {
 
         totalOps = numOps;
         random   = new Random(seed);
         line     = 0;
         list     = new ListWrapper<Integer>();
-
-        File outputFile = new File(outputPathname);
-        try {
-            output = new PrintStream(outputFile);
-        } catch (FileNotFoundException e) {
-            System.err.printf("ERROR: Could not open file %s\n", outputPathname);
-            showUsageAndExit();
-        }
+        output   = outputSink;
     }
 
-    private void go () {
+    void go () {
         // Write up to the request number of instructions.
         for (line = 1; line <= totalOps; line = line + 1) {
-            switch (random.nextInt(5)) {
-
-                case 0:
-                    add();
-                    break;
-
-                case 1:
-                    remove();
-                    break;
-
-                case 2:
-                    get();
-                    break;
-
-                case 3:
-                    set();
-                    break;
-
-                case 4:
-                    size();
-                    break;
-
-                default:
-                    System.err.printf("ERROR: Invalid operation number ?!\n");
-                    System.exit(1);
+            // Aggregates are rare, and fill rarest: it leaves every element equal, which weakens the checks of
+            // the other operations until adds, removes and sets have turned the list over again.
+            if (random.nextInt(FILL_ODDS) == 0) {
+                fill();
+            } else if (random.nextInt(AGGREGATE_ODDS) == 0) {
+                aggregate();
+            } else {
+                switch (random.nextInt(8)) {
+
+                    case 0:
+                        add();
+                        break;
+
+                    case 1:
+                        remove();
+                        break;
+
+                    case 2:
+                        get();
+                        break;
+
+                    case 3:
+                        set();
+                        break;
+
+                    case 4:
+                        size();
+                        break;
+
+                    case 5:
+                        indexOf();
+                        break;
+
+                    case 6:
+                        lastIndexOf();
+                        break;
+
+                    case 7:
+                        contains();
+                        break;
+
+                    default:
+                        System.err.printf("ERROR: Invalid operation number ?!\n");
+                        System.exit(1);
+                }
             }
         }
     }
 
     private static void showUsageAndExit () {
-        System.err.printf("USAGE: java CreateList <# ops>\n"+"<random seed>\n"+"<output pathname>\n" );
+        System.err.printf("USAGE: java CreateList <# ops>\n"+"<random seed>\n"+"<output pathname, .gz to compress>\n" );
         System.exit(1);
     }
 
@@ -95,8 +128,8 @@ public class CreateList {
         }
         catch (IndexOutOfBoundsException | IllegalStateException e) {
         }
-        // print operations
-        output.printf("%6s %9d %9d\n", "add", index, value);
+        // write operations
+        output.write(Operation.ADD, index, value);
     }
 
     private void remove () {
@@ -110,8 +143,8 @@ public class CreateList {
         }
         catch (IndexOutOfBoundsException e) {
         }
-        // print operations
-        output.printf("%6s %9d\n", "remove", index);
+        // write operations
+        output.write(Operation.REMOVE, index, -1);
     }
 
     private void get () {
@@ -119,8 +152,8 @@ public class CreateList {
         // Choose random index.
         int index = getRandomIndex();
 
-        // print operations
-        output.printf("%6s %9d\n", "get", index);
+        // write operations
+        output.write(Operation.GET, index, -1);
 
     }
 
@@ -130,13 +163,47 @@ public class CreateList {
         int index = getRandomIndex();
         int value = getRandomValue();
 
-        // print operations
-        output.printf("%6s %9d %9d\n", "set", index, value);
+        // try and apply them to a real list, so searches can find the value.
+        try {
+            list.set(index, value);
+        }
+        catch (IndexOutOfBoundsException e) {
+        }
+        // write operations
+        output.write(Operation.SET, index, value);
 
     }
 
     private void size () {
-        output.printf("%6s\n", "size");
+        output.write(Operation.SIZE, -1, -1);
+    }
+
+    private void indexOf () {
+        output.write(Operation.INDEX_OF, -1, getSearchValue());
+    }
+
+    private void lastIndexOf () {
+        output.write(Operation.LAST_INDEX_OF, -1, getSearchValue());
+    }
+
+    private void contains () {
+        output.write(Operation.CONTAINS, -1, getSearchValue());
+    }
+
+    private void aggregate () {
+        int[] aggregates = { Operation.SUM, Operation.MIN, Operation.MAX };
+        output.write(aggregates[random.nextInt(aggregates.length)], -1, -1);
+    }
+
+    private void fill () {
+
+        // Choose random value, and apply it to a real list, so searches can find it.
+        int value = getRandomValue();
+        list.fill(value);
+
+        // write operations
+        output.write(Operation.FILL, -1, value);
+
     }
 
     private int getRandomIndex () {
@@ -158,4 +225,15 @@ public class CreateList {
         return random.nextInt(totalOps);
 
     }
+
+    private int getSearchValue () {
+
+        // Half the time search for a value known to be in the list, otherwise for any value, which is most likely absent.
+        int size = list.size();
+        if (size > 0 && random.nextBoolean()) {
+            return list.get(random.nextInt(size));
+        }
+        return getRandomValue();
+
+    }
 }
@@ -0,0 +1,20 @@
+import java.util.NoSuchElementException;
+
+/**Whole-list operations on a list of ints, for lists that can run them natively over their own storage.*/
+public interface IntAggregates {
+
+    /** Return the sum of the elements in the list, or 0 if it is empty.*/
+    public long sum ();
+
+    /** Return the smallest element in the list.
+     * @throws NoSuchElementException if the list is empty*/
+    public int min () throws NoSuchElementException;
+
+    /** Return the largest element in the list.
+     * @throws NoSuchElementException if the list is empty*/
+    public int max () throws NoSuchElementException;
+
+    /** Replace every element in the list with the given int.
+     * @param element - Value to store at every position*/
+    public void fill (int element);
+}
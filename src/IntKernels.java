@@ -0,0 +1,40 @@
+/**Loops over a range of an int array, as used by MyIntArrayList. Ranges run from {@code from} inclusive to {@code to} exclusive.*/
+interface IntKernels {
+
+    /** Copy elements within an array, as System.arraycopy does, so the source and destination ranges may overlap.
+     * @param array - Array to copy within
+     * @param srcPos - Position of the first element to copy
+     * @param destPos - Position the first element is copied to
+     * @param length - Number of elements to copy*/
+    public void copy (int[] array, int srcPos, int destPos, int length);
+
+    /** Store the given value at every position in the range.*/
+    public void fill (int[] array, int from, int to, int value);
+
+    /** Return the lowest position in the range holding the given value, or -1 if there is none.*/
+    public int indexOf (int[] array, int from, int to, int value);
+
+    /** Return the highest position in the range holding the given value, or -1 if there is none.*/
+    public int lastIndexOf (int[] array, int from, int to, int value);
+
+    /** Return the sum of the range, without overflow.*/
+    public long sum (int[] array, int from, int to);
+
+    /** Return the smallest value in a non-empty range.*/
+    public int min (int[] array, int from, int to);
+
+    /** Return the largest value in a non-empty range.*/
+    public int max (int[] array, int from, int to);
+
+    /** Return the Vector API kernels when the jdk.incubator.vector module is present in this run, or the scalar kernels otherwise.*/
+    static IntKernels fastest () {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return (IntKernels) Class.forName("VectorIntKernels").getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // Not compiled in, or not usable on this JVM: the scalar kernels give the same answers.
+            }
+        }
+        return new ScalarIntKernels();
+    }
+}
@@ -27,6 +27,21 @@ public interface ListInterface <E> {
      * @throws IndexOutOfBoundsException if {@code index < 0 || size <= index}*/
     public E set (int index, E element) throws IndexOutOfBoundsException;
 
+    /** Return the position of the first occurrence of the given element, compared using {@code equals}.
+     * @param element - Element to search for
+     * @return the lowest index holding the element, or -1 if it is not present*/
+    public int indexOf (E element);
+
+    /** Return the position of the last occurrence of the given element, compared using {@code equals}.
+     * @param element - Element to search for
+     * @return the highest index holding the element, or -1 if it is not present*/
+    public int lastIndexOf (E element);
+
+    /** Return whether the given element is present in the list, compared using {@code equals}.
+     * @param element - Element to search for
+     * @return true if some index holds the element*/
+    public boolean contains (E element);
+
     /** Return the number of elements in the list.*/
     public int size ();
 }
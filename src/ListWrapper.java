@@ -1,8 +1,11 @@
 import java.lang.IllegalStateException;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 
-/**Implement a list using a standard LinkedList.*/
-public class ListWrapper <E> implements ListInterface <E> {
+/**Implement a list using a standard LinkedList. It can also be iterated and filled, so TestList can check aggregate
+ * operations against it without indexed access.*/
+public class ListWrapper <E> implements ListInterface <E>, Iterable <E> {
 
     /** Linked list in which the elements will be stored. */
     private LinkedList<E> _storage;
@@ -47,8 +50,40 @@ public class ListWrapper <E> implements ListInterface <E> {
         return _storage.set(index, element);
     }
 
+    /** Return the position of the first occurrence of the given element, compared using {@code equals}.
+     * @param element - Element to search for
+     * @return the lowest index holding the element, or -1 if it is not present*/
+    public int indexOf (E element) {
+        return _storage.indexOf(element);
+    }
+
+    /** Return the position of the last occurrence of the given element, compared using {@code equals}.
+     * @param element - Element to search for
+     * @return the highest index holding the element, or -1 if it is not present*/
+    public int lastIndexOf (E element) {
+        return _storage.lastIndexOf(element);
+    }
+
+    /** Return whether the given element is present in the list, compared using {@code equals}.
+     * @param element - Element to search for
+     * @return true if some index holds the element*/
+    public boolean contains (E element) {
+        return _storage.contains(element);
+    }
+
     /** Return the number of elements in the list.*/
     public int size () {
         return _storage.size();
     }
+
+    /** Return an iterator over the elements in the list, in index order.*/
+    public Iterator<E> iterator () {
+        return _storage.iterator();
+    }
+
+    /** Replace every element in the list with the given element.
+     * @param element - Element to store at every position*/
+    public void fill (E element) {
+        Collections.fill(_storage, element);
+    }
 }
\ No newline at end of file
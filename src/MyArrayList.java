@@ -1,13 +1,25 @@
 import java.lang.IllegalStateException;
+import java.util.HashMap;
+import java.util.Objects;
 
 /**Implement an array list.*/
 public class MyArrayList <E> implements ListInterface <E> {
 
     private Object[] _storage;
     private int _size;
+    /** Number of occurrences of each element in the list, or null if the list is not indexed. */
+    private HashMap<Object, Integer> _counts;
+
     public MyArrayList () {
+        this(false);
+    }
+
+    /** Constructor. Create an empty list, optionally keeping a count of each element so that
+     * {@code contains} and searches for absent elements take constant time.*/
+    public MyArrayList (boolean indexed) {
         _storage = new Object[0];
         _size    = 0;
+        _counts  = indexed ? new HashMap<Object, Integer>() : null;
     }
 
     /** Add an element to this list at the given index. Index must already exist or be no greater than 1 above the largest index already present.
@@ -32,6 +44,7 @@ public class MyArrayList <E> implements ListInterface <E> {
             _storage[i] = _storage[i-1];
         }
         _storage[index] = element;
+        countAdded(element);
     }
 
     /** Return element at given index
@@ -58,6 +71,7 @@ public class MyArrayList <E> implements ListInterface <E> {
         for (int i = index; i < _size; i += 1) {
             _storage[i] = _storage[i+1];
         }
+        countRemoved(element);
         return element;
     }
 
@@ -72,6 +86,8 @@ public class MyArrayList <E> implements ListInterface <E> {
         }
         E oldElement = (E)_storage[index];
         _storage[index] = element;
+        countRemoved(oldElement);
+        countAdded(element);
         return oldElement;
     }
 
@@ -80,6 +96,46 @@ public class MyArrayList <E> implements ListInterface <E> {
         return _size;
     } // size ()
 
+    /** Return the position of the first occurrence of the given element, compared using {@code equals}.
+     * @param element - Element to search for
+     * @return the lowest index holding the element, or -1 if it is not present*/
+    public int indexOf (E element) {
+        if (_counts != null && !_counts.containsKey(element)) {
+            return -1;
+        }
+        for (int i = 0; i < _size; i += 1) {
+            if (Objects.equals(_storage[i], element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** Return the position of the last occurrence of the given element, compared using {@code equals}.
+     * @param element - Element to search for
+     * @return the highest index holding the element, or -1 if it is not present*/
+    public int lastIndexOf (E element) {
+        if (_counts != null && !_counts.containsKey(element)) {
+            return -1;
+        }
+        for (int i = _size - 1; i >= 0; i -= 1) {
+            if (Objects.equals(_storage[i], element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** Return whether the given element is present in the list, compared using {@code equals}.
+     * @param element - Element to search for
+     * @return true if some index holds the element*/
+    public boolean contains (E element) {
+        if (_counts != null) {
+            return _counts.containsKey(element);
+        }
+        return indexOf(element) != -1;
+    }
+
 
     private void expandCapacity () {
         if(_storage.length == 0) {
@@ -94,5 +150,19 @@ public class MyArrayList <E> implements ListInterface <E> {
         }
     }
 
+    /** Record one more occurrence of an element in the index, if there is one.*/
+    private void countAdded (Object element) {
+        if (_counts != null) {
+            _counts.merge(element, 1, Integer::sum);
+        }
+    }
+
+    /** Record one less occurrence of an element in the index, if there is one, dropping it at zero.*/
+    private void countRemoved (Object element) {
+        if (_counts != null) {
+            _counts.computeIfPresent(element, (key, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
 }
 
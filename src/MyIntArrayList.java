@@ -0,0 +1,203 @@
+import java.lang.IllegalStateException;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**Implement an array list of ints, stored unboxed. Null elements are rejected, as an int cannot hold them.
+ * Shifting, fill, searches and aggregates run on the Vector API kernels when jdk.incubator.vector is added to the run.*/
+public class MyIntArrayList implements ListInterface <Integer>, IntAggregates {
+
+    private static final IntKernels KERNELS = IntKernels.fastest();
+
+    private final IntKernels _kernels;
+    private int[]            _storage;
+    private int              _size;
+
+    public MyIntArrayList () {
+        this(KERNELS);
+    }
+
+    /** Create a list that runs its loops on the given kernels, so they can be compared.*/
+    MyIntArrayList (IntKernels kernels) {
+        _kernels = kernels;
+        _storage = new int[0];
+        _size    = 0;
+    }
+
+    /** Add an element to this list at the given index. Index must already exist or be no greater than 1 above the largest index already present.
+     * @param element - Element to be added
+     * @param index - Position at which to insert new element
+     * @throws IndexOutOfBoundsException if {@code index<0 || list.size <index}
+     * @throws IllegalStateException  if list cannot be expanded.
+     * @throws NullPointerException if {@code element == null}*/
+    public void add (int index, Integer element) throws IndexOutOfBoundsException,
+            IllegalStateException {
+        addInt(index, requireElement(element));
+    }
+
+    /** Add an int to this list at the given index, without boxing.
+     * @param index - Position at which to insert new element
+     * @param element - Element to be added
+     * @throws IndexOutOfBoundsException if {@code index<0 || list.size <index}
+     * @throws IllegalStateException  if list cannot be expanded.*/
+    public void addInt (int index, int element) throws IndexOutOfBoundsException,
+            IllegalStateException {
+        if (index < 0 || _size < index) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        if (_size == _storage.length) {
+            try {
+                expandCapacity();
+            } catch (OutOfMemoryError e) {
+                throw new IllegalStateException("Allocation failed");
+            }
+        }
+        _kernels.copy(_storage, index, index + 1, _size - index);
+        _storage[index] = element;
+        _size += 1;
+    }
+
+    /** Return element at given index
+     * @param index - Position to get element from
+     * @return the value of element at given index
+     * @throws IndexOutOfBoundsException if {@code index < 0 || list.size <= index}*/
+    public Integer get (int index) throws IndexOutOfBoundsException {
+        return getInt(index);
+    }
+
+    /** Return the int at given index, without boxing.
+     * @param index - Position to get element from
+     * @return the value of element at given index
+     * @throws IndexOutOfBoundsException if {@code index < 0 || list.size <= index}*/
+    public int getInt (int index) throws IndexOutOfBoundsException {
+        if (index < 0 || _size <= index) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return _storage[index];
+    }
+
+    /** Remove an element from the given index and resize list as to account for empty index.
+     * @param index - Position at which to remove an element.
+     * @return the removed element
+     * @throws IndexOutOfBoundsException if {@code index < 0 || list.size <= index}*/
+    public Integer remove (int index) throws IndexOutOfBoundsException {
+        return removeInt(index);
+    }
+
+    /** Remove the int at the given index, without boxing.
+     * @param index - Position at which to remove an element.
+     * @return the removed element
+     * @throws IndexOutOfBoundsException if {@code index < 0 || list.size <= index}*/
+    public int removeInt (int index) throws IndexOutOfBoundsException {
+        if (index < 0 || _size <= index) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        int element = _storage[index];
+        _size -= 1;
+        _kernels.copy(_storage, index + 1, index, _size - index);
+        return element;
+    }
+
+    /** Replace element at given index with the inputted element and return the element that is removed.
+     * @param index - Position at which to replace an element.
+     * @param element - New element to place at the given position.
+     * @return removed element
+     * @throws IndexOutOfBoundsException if {@code index < 0 || list.size <= index}
+     * @throws NullPointerException if {@code element == null}*/
+    public Integer set (int index, Integer element) throws IndexOutOfBoundsException {
+        return setInt(index, requireElement(element));
+    }
+
+    /** Replace the int at given index, without boxing.
+     * @param index - Position at which to replace an element.
+     * @param element - New element to place at the given position.
+     * @return removed element
+     * @throws IndexOutOfBoundsException if {@code index < 0 || list.size <= index}*/
+    public int setInt (int index, int element) throws IndexOutOfBoundsException {
+        if (index < 0 || _size <= index) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        int oldElement = _storage[index];
+        _storage[index] = element;
+        return oldElement;
+    }
+
+    /** Return the number of elements in list*/
+    public int size () {
+        return _size;
+    }
+
+    /** Return the position of the first occurrence of the given element.
+     * @param element - Element to search for
+     * @return the lowest index holding the element, or -1 if it is not present*/
+    public int indexOf (Integer element) {
+        return element == null ? -1 : indexOfInt(element);
+    }
+
+    /** Return the position of the first occurrence of the given int, without boxing.
+     * @param element - Element to search for
+     * @return the lowest index holding the element, or -1 if it is not present*/
+    public int indexOfInt (int element) {
+        return _kernels.indexOf(_storage, 0, _size, element);
+    }
+
+    /** Return the position of the last occurrence of the given element.
+     * @param element - Element to search for
+     * @return the highest index holding the element, or -1 if it is not present*/
+    public int lastIndexOf (Integer element) {
+        return element == null ? -1 : lastIndexOfInt(element);
+    }
+
+    /** Return the position of the last occurrence of the given int, without boxing.
+     * @param element - Element to search for
+     * @return the highest index holding the element, or -1 if it is not present*/
+    public int lastIndexOfInt (int element) {
+        return _kernels.lastIndexOf(_storage, 0, _size, element);
+    }
+
+    /** Return whether the given element is present in the list.
+     * @param element - Element to search for
+     * @return true if some index holds the element*/
+    public boolean contains (Integer element) {
+        return indexOf(element) != -1;
+    }
+
+    /** Replace every element in the list with the given int.
+     * @param element - Value to store at every position*/
+    public void fill (int element) {
+        _kernels.fill(_storage, 0, _size, element);
+    }
+
+    /** Return the sum of the elements in the list, or 0 if it is empty.*/
+    public long sum () {
+        return _kernels.sum(_storage, 0, _size);
+    }
+
+    /** Return the smallest element in the list.
+     * @throws NoSuchElementException if the list is empty*/
+    public int min () throws NoSuchElementException {
+        if (_size == 0) {
+            throw new NoSuchElementException();
+        }
+        return _kernels.min(_storage, 0, _size);
+    }
+
+    /** Return the largest element in the list.
+     * @throws NoSuchElementException if the list is empty*/
+    public int max () throws NoSuchElementException {
+        if (_size == 0) {
+            throw new NoSuchElementException();
+        }
+        return _kernels.max(_storage, 0, _size);
+    }
+
+    private static int requireElement (Integer element) {
+        if (element == null) {
+            throw new NullPointerException("MyIntArrayList cannot hold null");
+        }
+        return element;
+    }
+
+    private void expandCapacity () {
+        _storage = Arrays.copyOf(_storage, _storage.length == 0 ? 2 : _storage.length * 2);
+    }
+}
@@ -1,5 +1,6 @@
 import java.lang.IllegalStateException;
 import java.util.LinkedList;
+import java.util.Objects;
 
 class Link <E> {
     public Link<E> next;
@@ -11,12 +12,13 @@ class Link <E> {
 public class MyLinkedList <E> implements ListInterface <E> {
 
     private Link<E> head;
+    private Link<E> tail;
     private int     size;
 
     /** Constructor to create empty linked list */
     public MyLinkedList () {
         head = new Link<E>();
-        Link<E> tail = new Link<E>();
+        tail = new Link<E>();
         head.next = tail;
         head.prev = null;
         tail.next = null;
@@ -87,6 +89,41 @@ public class MyLinkedList <E> implements ListInterface <E> {
         return value;
     }
 
+    /** Return the position of the first occurrence of the given element, walking forward from the head.
+     * @param element - Element to search for
+     * @return the lowest index holding the element, or -1 if it is not present*/
+    public int indexOf (E element) {
+        int index = 0;
+        for (Link<E> p = head.next; p != tail; p = p.next) {
+            if (Objects.equals(p.value, element)) {
+                return index;
+            }
+            index = index + 1;
+        }
+        return -1;
+    }
+
+    /** Return the position of the last occurrence of the given element, walking backward from the tail.
+     * @param element - Element to search for
+     * @return the highest index holding the element, or -1 if it is not present*/
+    public int lastIndexOf (E element) {
+        int index = size - 1;
+        for (Link<E> p = tail.prev; p != head; p = p.prev) {
+            if (Objects.equals(p.value, element)) {
+                return index;
+            }
+            index = index - 1;
+        }
+        return -1;
+    }
+
+    /** Return whether the given element is present in the list.
+     * @param element - Element to search for
+     * @return true if some index holds the element*/
+    public boolean contains (E element) {
+        return indexOf(element) != -1;
+    }
+
     /** Return the number of elements in list*/
     public int size () {
         return size;
@@ -0,0 +1,54 @@
+/**Codes and names of the list operations that make up a test sequence.*/
+class Operation {
+
+    static final int ADD           = 0;
+    static final int REMOVE        = 1;
+    static final int GET           = 2;
+    static final int SET           = 3;
+    static final int SIZE          = 4;
+    static final int INDEX_OF      = 5;
+    static final int LAST_INDEX_OF = 6;
+    static final int CONTAINS      = 7;
+    static final int SUM           = 8;
+    static final int MIN           = 9;
+    static final int MAX           = 10;
+    static final int FILL          = 11;
+
+    /** Names of the operations as written in sequence files, indexed by code.*/
+    private static final String[] NAMES = {
+        "add", "remove", "get", "set", "size", "indexOf", "lastIndexOf", "contains",
+        "sum", "min", "max", "fill"
+    };
+
+    /** Return the name of an operation as written in sequence files.*/
+    static String name (int operation) {
+        return NAMES[operation];
+    }
+
+    /** Return the code of the operation with the given name, or -1 if there is none.*/
+    static int code (String name) {
+        for (int operation = 0; operation < NAMES.length; operation = operation + 1) {
+            if (NAMES[operation].equals(name)) {
+                return operation;
+            }
+        }
+        return -1;
+    }
+
+    /** Return whether an operation works on the whole list at once, which only lists implementing IntAggregates support.*/
+    static boolean isAggregate (int operation) {
+        return operation == SUM || operation == MIN || operation == MAX || operation == FILL;
+    }
+
+    /** Return whether an operation takes an index argument.*/
+    static boolean takesIndex (int operation) {
+        return operation == ADD || operation == REMOVE || operation == GET || operation == SET;
+    }
+
+    /** Return whether an operation takes a value argument.*/
+    static boolean takesValue (int operation) {
+        return operation == ADD || operation == SET ||
+               operation == INDEX_OF || operation == LAST_INDEX_OF || operation == CONTAINS ||
+               operation == FILL;
+    }
+}
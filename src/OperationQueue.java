@@ -0,0 +1,104 @@
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**Pass list operations from one thread to another in memory. Operations are packed as (operation, index, value) triples
+ * into blocks of ints, so the threads hand over a block at a time rather than an operation at a time.*/
+class OperationQueue implements OperationSink, OperationSource {
+
+    /** Operations per block.*/
+    private static final int BLOCK_OPS = 4096;
+
+    /** Blocks the queue holds before the writer has to wait for the reader.*/
+    private static final int CAPACITY = 16;
+
+    /** Block sent after the last operation.*/
+    private static final int[] END = new int[0];
+
+    private BlockingQueue<int[]> _blocks;
+
+    private int[] _writeBlock;
+    private int   _writeCount;
+
+    private int[] _readBlock;
+    private int   _readPosition;
+    private int   _operation;
+    private int   _index;
+    private int   _value;
+
+    OperationQueue () {
+        _blocks       = new ArrayBlockingQueue<int[]>(CAPACITY);
+        _writeBlock   = new int[BLOCK_OPS * 3];
+        _writeCount   = 0;
+        _readBlock    = null;
+        _readPosition = 0;
+    }
+
+    public void write (int operation, int index, int value) {
+        _writeBlock[_writeCount]     = operation;
+        _writeBlock[_writeCount + 1] = index;
+        _writeBlock[_writeCount + 2] = value;
+        _writeCount += 3;
+        if (_writeCount == _writeBlock.length) {
+            put(_writeBlock);
+            _writeBlock = new int[BLOCK_OPS * 3];
+            _writeCount = 0;
+        }
+    }
+
+    public void close () {
+        if (_writeCount > 0) {
+            put(Arrays.copyOf(_writeBlock, _writeCount));
+            _writeCount = 0;
+        }
+        put(END);
+    }
+
+    public boolean next () {
+        if (_readBlock == END) {
+            return false;
+        }
+        if (_readBlock == null || _readPosition == _readBlock.length) {
+            _readBlock    = take();
+            _readPosition = 0;
+            if (_readBlock == END) {
+                return false;
+            }
+        }
+        _operation = _readBlock[_readPosition];
+        _index     = Operation.takesIndex(_operation) ? _readBlock[_readPosition + 1] : -1;
+        _value     = Operation.takesValue(_operation) ? _readBlock[_readPosition + 2] : -1;
+        _readPosition += 3;
+        return true;
+    }
+
+    public int operation () {
+        return _operation;
+    }
+
+    public int index () {
+        return _index;
+    }
+
+    public int value () {
+        return _value;
+    }
+
+    private void put (int[] block) {
+        try {
+            _blocks.put(block);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while passing operations");
+        }
+    }
+
+    private int[] take () {
+        try {
+            return _blocks.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for operations");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+import java.io.IOException;
+
+/**A destination for a sequence of list operations.*/
+interface OperationSink {
+
+    /** Write one operation. Arguments the operation does not take are ignored.
+     * @param operation - Code of the operation, from {@link Operation}
+     * @param index - Index argument
+     * @param value - Value argument*/
+    public void write (int operation, int index, int value);
+
+    /** Mark the end of the sequence and release any resources held by the sink.
+     * @throws IOException if the sequence could not be written in full*/
+    public void close () throws IOException;
+}
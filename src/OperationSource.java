@@ -0,0 +1,16 @@
+/**A source of a sequence of list operations, read one at a time.*/
+interface OperationSource {
+
+    /** Advance to the next operation.
+     * @return false if the sequence has ended*/
+    public boolean next ();
+
+    /** Return the code of the current operation, from {@link Operation}.*/
+    public int operation ();
+
+    /** Return the index argument of the current operation, or -1 if it takes none.*/
+    public int index ();
+
+    /** Return the value argument of the current operation, or -1 if it takes none.*/
+    public int value ();
+}
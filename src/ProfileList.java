@@ -0,0 +1,379 @@
+import java.io.IOException;
+import java.lang.IllegalStateException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedObject;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**Profiler for an implementation of ListInterface. Replays a sequence of list operations under a Java Flight Recorder recording
+ * and reports allocation per operation, the hottest methods, where Integers are boxed, and the JIT's inlining decisions.
+ * Operations the list does not implement natively, the aggregates of lists without IntAggregates, are left out and counted.
+ * Each run replays one implementation, so it shows how that implementation is compiled on its own; call sites shared by
+ * several implementations in one JVM are not reproduced. Optional limits on bytes and time per operation make the run
+ * exit with status 1 when exceeded, for use in CI.*/
+
+public class ProfileList {
+
+    /** Number of entries printed in each ranked section of the report.*/
+    private static final int TOP = 10;
+
+    /** Longest time to wait for the JIT to finish compilations still running when the replay ends.*/
+    private static final Duration COMPILATION_TIMEOUT = Duration.ofSeconds(10);
+
+    private String          className;
+    private int             replays;
+    private String          recordingPathname;
+    private double          maxBytesPerOp;
+    private double          maxNanosPerOp;
+    private OperationSource input;
+    private int[]           operations;
+    private int[]           arguments;
+    private int[]           values;
+    private int             count;
+    private int             skipped;
+    private long            checksum;
+
+    public static void main (String[] args) {
+        if (args.length != 4 && args.length != 6) {
+            showUsageAndExit();
+        }
+        // Extract the arguments.
+        String className         = args[0];
+        String inputPathname     = args[1];
+        int    replays           = 0;
+        String recordingPathname = args[3];
+        double maxBytesPerOp     = Double.POSITIVE_INFINITY;
+        double maxNanosPerOp     = Double.POSITIVE_INFINITY;
+        try {
+            replays = Integer.parseUnsignedInt(args[2]);
+            if (args.length == 6) {
+                maxBytesPerOp = Double.parseDouble(args[4]);
+                maxNanosPerOp = Double.parseDouble(args[5]);
+            }
+        } catch (NumberFormatException e) {
+            showUsageAndExit();
+        }
+        // Create the profiler and start it.
+        ProfileList profiler = new ProfileList(className, inputPathname, replays, recordingPathname,
+                maxBytesPerOp, maxNanosPerOp);
+        profiler.go();
+    }
+
+    public ProfileList (String className, String inputPathname, int replays, String recordingPathname,
+                        double maxBytesPerOp, double maxNanosPerOp) {
+
+        this.className         = className;
+        this.replays           = replays;
+        this.recordingPathname = recordingPathname;
+        this.maxBytesPerOp     = maxBytesPerOp;
+        this.maxNanosPerOp     = maxNanosPerOp;
+        if (TestList.createList(className) == null) {
+            showUsageAndExit();
+        }
+        try {
+            input = new SequenceReader(SequenceFile.openInput(inputPathname));
+        } catch (IOException e) {
+            System.err.printf("ERROR: Could not open file %s\n", inputPathname);
+            showUsageAndExit();
+        }
+        operations = new int[1024];
+        arguments  = new int[1024];
+        values     = new int[1024];
+        count      = 0;
+        skipped    = 0;
+        checksum   = 0;
+    }
+
+    private void go () {
+
+        // Parse the whole sequence up front so the Scanner's allocations stay out of the measurement.
+        load();
+
+        Recording recording = new Recording();
+        recording.enable("jdk.ObjectAllocationSample").with("throttle", "1000/s");
+        recording.enable("jdk.ExecutionSample").withPeriod(Duration.ofMillis(10));
+        recording.enable("jdk.Compilation").withThreshold(Duration.ZERO);
+        recording.enable("jdk.CompilerInlining");
+        recording.start();
+
+        // Count the bytes this thread allocates while replaying; JFR only samples them.
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+        long threadId        = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long timeBefore      = System.nanoTime();
+        for (int r = 0; r < replays; r = r + 1) {
+            replay(TestList.createList(className));
+        }
+        long timeAfter      = System.nanoTime();
+        long allocatedAfter = threads.getThreadAllocatedBytes(threadId);
+
+        // Compilations of the replay can still be running; their decisions only get a tier once they finish.
+        awaitCompilations();
+        recording.stop();
+        List<RecordedEvent> events = null;
+        try {
+            Path recordingPath = Path.of(recordingPathname);
+            recording.dump(recordingPath);
+            events = RecordingFile.readAllEvents(recordingPath);
+        } catch (IOException e) {
+            System.err.printf("ERROR: Could not write recording %s\n", recordingPathname);
+            System.exit(1);
+        }
+        recording.close();
+
+        long   totalOps    = (long)count * replays;
+        double nanosPerOp  = totalOps == 0 ? 0.0 : (double)(timeAfter - timeBefore) / totalOps;
+        double bytesPerOp  = totalOps == 0 ? 0.0 : (double)(allocatedAfter - allocatedBefore) / totalOps;
+        System.out.printf("%s: %d ops (%d x %d), checksum %d\n",
+                className, totalOps, replays, count, checksum);
+        if (skipped > 0) {
+            System.out.printf("  skipped %d sum, min, max and fill ops per replay, which %s does not implement\n",
+                    skipped, className);
+        }
+        System.out.printf("  time/op        = %12.1f ns\n", nanosPerOp);
+        System.out.printf("  allocation/op  = %12.1f bytes\n", bytesPerOp);
+        reportAllocations(events, threadId);
+        reportExecutionSamples(events, threadId);
+        reportInlining(events, TestList.createList(className).getClass().getName());
+
+        // Fail the run if either limit was exceeded.
+        boolean failed = false;
+        if (bytesPerOp > maxBytesPerOp) {
+            System.out.printf("FAIL: allocation/op %.1f bytes exceeds limit %.1f\n", bytesPerOp, maxBytesPerOp);
+            failed = true;
+        }
+        if (nanosPerOp > maxNanosPerOp) {
+            System.out.printf("FAIL: time/op %.1f ns exceeds limit %.1f\n", nanosPerOp, maxNanosPerOp);
+            failed = true;
+        }
+        if (failed) {
+            System.exit(1);
+        }
+    }
+
+    private static void showUsageAndExit () {
+        System.err.printf("USAGE: java ProfileList <ListInterface class>\n"+"<input pathname>\n"+"<# replays>\n"+"<recording pathname>\n"+
+                "[<max bytes/op> <max ns/op>]\n" );
+        System.exit(1);
+    }
+
+    private void load () {
+
+        // Read instructions until there are no more, keeping them in plain int arrays. Aggregates are kept only
+        // for lists that implement them, as TestList does.
+        boolean aggregates = TestList.createList(className) instanceof IntAggregates;
+        while (input.next()) {
+            if (Operation.isAggregate(input.operation()) && !aggregates) {
+                skipped = skipped + 1;
+                continue;
+            }
+            if (count == operations.length) {
+                operations = Arrays.copyOf(operations, count * 2);
+                arguments  = Arrays.copyOf(arguments,  count * 2);
+                values     = Arrays.copyOf(values,     count * 2);
+            }
+            operations[count] = input.operation();
+            arguments[count]  = input.index();
+            values[count]     = input.value();
+            count = count + 1;
+        }
+    }
+
+    private static void awaitCompilations () {
+
+        // Poll the JIT's queues, as jcmd Compiler.queue prints them, until no method is compiling or waiting.
+        long deadline = System.nanoTime() + COMPILATION_TIMEOUT.toNanos();
+        try {
+            ObjectName diagnostics = new ObjectName("com.sun.management:type=DiagnosticCommand");
+            while (System.nanoTime() < deadline) {
+                String queues = (String)ManagementFactory.getPlatformMBeanServer().invoke(diagnostics, "compilerQueue",
+                        new Object[] { null }, new String[] { String[].class.getName() });
+                if (!queues.contains("::")) {
+                    return;
+                }
+                Thread.sleep(50);
+            }
+        } catch (JMException e) {
+            // Without the diagnostic commands, decisions of unfinished compilations are reported as such.
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void replay (ListInterface<Integer> list) {
+
+        // Apply every operation, folding results into the checksum so the JIT cannot discard them.
+        for (int i = 0; i < count; i = i + 1) {
+            int index = arguments[i];
+            int value = values[i];
+            try {
+                switch (operations[i]) {
+                    case Operation.ADD:
+                        list.add(index, value);
+                        break;
+                    case Operation.REMOVE:
+                        checksum += list.remove(index);
+                        break;
+                    case Operation.GET:
+                        checksum += list.get(index);
+                        break;
+                    case Operation.SET:
+                        checksum += list.set(index, value);
+                        break;
+                    case Operation.SIZE:
+                        checksum += list.size();
+                        break;
+                    case Operation.INDEX_OF:
+                        checksum += list.indexOf(value);
+                        break;
+                    case Operation.LAST_INDEX_OF:
+                        checksum += list.lastIndexOf(value);
+                        break;
+                    case Operation.CONTAINS:
+                        checksum += list.contains(value) ? 1 : 0;
+                        break;
+                    case Operation.SUM:
+                        checksum += ((IntAggregates)list).sum();
+                        break;
+                    case Operation.MIN:
+                        checksum += ((IntAggregates)list).min();
+                        break;
+                    case Operation.MAX:
+                        checksum += ((IntAggregates)list).max();
+                        break;
+                    case Operation.FILL:
+                        ((IntAggregates)list).fill(value);
+                        break;
+                }
+            } catch (IndexOutOfBoundsException | IllegalStateException | NoSuchElementException e) {
+            }
+        }
+    }
+
+    private static void reportAllocations (List<RecordedEvent> events, long threadId) {
+
+        // Sampled allocation weight per class, and per first frame outside Integer for boxed Integers.
+        Map<String, Long> byClass  = new HashMap<String, Long>();
+        Map<String, Long> boxingAt = new HashMap<String, Long>();
+        for (RecordedEvent event : events) {
+            if (!event.getEventType().getName().equals("jdk.ObjectAllocationSample") || !onThread(event, threadId)) {
+                continue;
+            }
+            String type   = event.getClass("objectClass").getName();
+            long   weight = event.getLong("weight");
+            byClass.merge(type, weight, Long::sum);
+            if (type.equals("java.lang.Integer") && event.getStackTrace() != null) {
+                for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+                    RecordedMethod method = frame.getMethod();
+                    if (!method.getType().getName().equals("java.lang.Integer")) {
+                        boxingAt.merge(methodName(method) + " line " + frame.getLineNumber(), weight, Long::sum);
+                        break;
+                    }
+                }
+            }
+        }
+        printTop("allocation by class (sampled bytes)", byClass);
+        printTop("Integer boxing by call site (sampled bytes)", boxingAt);
+    }
+
+    private static void reportExecutionSamples (List<RecordedEvent> events, long threadId) {
+
+        // Count execution samples by the method on top of the stack.
+        Map<String, Long> byMethod = new HashMap<String, Long>();
+        for (RecordedEvent event : events) {
+            if (!event.getEventType().getName().equals("jdk.ExecutionSample") || event.getStackTrace() == null ||
+                    !onThread(event, "sampledThread", threadId)) {
+                continue;
+            }
+            List<RecordedFrame> frames = event.getStackTrace().getFrames();
+            if (!frames.isEmpty()) {
+                byMethod.merge(methodName(frames.get(0).getMethod()), 1L, Long::sum);
+            }
+        }
+        printTop("hot methods (execution samples)", byMethod);
+    }
+
+    private static void reportInlining (List<RecordedEvent> events, String listType) {
+
+        // Find the compiler and tier of every compilation, so each decision can be labelled with them.
+        Map<Integer, String> tiers = new HashMap<Integer, String>();
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals("jdk.Compilation")) {
+                int level = event.getShort("compileLevel");
+                tiers.put(event.getInt("compileId"), (level == 4 ? "C2" : "C1") + " tier " + level);
+            }
+        }
+
+        // Count the JIT's decisions for calls into the profiled list class or out of the replay loop. A decision
+        // whose compilation never finished has no tier; those are labelled unfinished and counted.
+        Map<String, Long> decisions  = new HashMap<String, Long>();
+        long              unfinished = 0;
+        for (RecordedEvent event : events) {
+            if (!event.getEventType().getName().equals("jdk.CompilerInlining")) {
+                continue;
+            }
+            RecordedMethod caller     = event.getValue("caller");
+            RecordedObject callee     = event.getValue("callee");
+            String         callerType = caller.getType().getName();
+            String         calleeType = callee.getString("type");
+            if (!calleeType.equals(listType) && !callerType.equals("ProfileList")) {
+                continue;
+            }
+            String tier = tiers.get(event.getInt("compileId"));
+            if (tier == null) {
+                tier       = "unfinished";
+                unfinished = unfinished + 1;
+            }
+            String decision = String.format("%-10s %-6s %s -> %s.%s (%s)",
+                    tier,
+                    event.getBoolean("succeeded") ? "inline" : "no",
+                    methodName(caller),
+                    calleeType.replace('/', '.'),
+                    callee.getString("name"),
+                    event.getString("message"));
+            decisions.merge(decision, 1L, Long::sum);
+        }
+        printTop("inlining decisions (compilations)", decisions, Integer.MAX_VALUE);
+        if (unfinished > 0) {
+            System.out.printf("  %d decisions are from compilations that had not finished when the recording stopped\n", unfinished);
+        }
+    }
+
+    private static boolean onThread (RecordedEvent event, long threadId) {
+        return onThread(event, "eventThread", threadId);
+    }
+
+    private static boolean onThread (RecordedEvent event, String field, long threadId) {
+        RecordedThread thread = event.getValue(field);
+        return thread != null && thread.getJavaThreadId() == threadId;
+    }
+
+    private static String methodName (RecordedMethod method) {
+        return method.getType().getName() + "." + method.getName();
+    }
+
+    private static void printTop (String title, Map<String, Long> counts) {
+        printTop(title, counts, TOP);
+    }
+
+    private static void printTop (String title, Map<String, Long> counts, int limit) {
+        System.out.printf("  %s\n", title);
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(limit)
+                .forEach(entry -> System.out.printf("    %12d  %s\n", entry.getValue(), entry.getKey()));
+    }
+}
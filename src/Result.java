@@ -2,5 +2,6 @@
 enum Result {
     SUCCESS,
     INDEX_FAIL,
-    ALLOC_FAIL
+    ALLOC_FAIL,
+    EMPTY_FAIL
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+import java.util.Arrays;
+
+/**IntKernels written as plain loops, for runs without the jdk.incubator.vector module.*/
+class ScalarIntKernels implements IntKernels {
+
+    public void copy (int[] array, int srcPos, int destPos, int length) {
+        System.arraycopy(array, srcPos, array, destPos, length);
+    }
+
+    public void fill (int[] array, int from, int to, int value) {
+        Arrays.fill(array, from, to, value);
+    }
+
+    public int indexOf (int[] array, int from, int to, int value) {
+        for (int i = from; i < to; i += 1) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int lastIndexOf (int[] array, int from, int to, int value) {
+        for (int i = to - 1; i >= from; i -= 1) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public long sum (int[] array, int from, int to) {
+        long total = 0;
+        for (int i = from; i < to; i += 1) {
+            total += array[i];
+        }
+        return total;
+    }
+
+    public int min (int[] array, int from, int to) {
+        int result = array[from];
+        for (int i = from + 1; i < to; i += 1) {
+            result = Math.min(result, array[i]);
+        }
+        return result;
+    }
+
+    public int max (int[] array, int from, int to) {
+        int result = array[from];
+        for (int i = from + 1; i < to; i += 1) {
+            result = Math.max(result, array[i]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,138 @@
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.PrintStream;
+import java.util.Scanner;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**Open sequence files for writing and reading. Pathnames ending in ".gz" are gzip-compressed, everything else is plain text.*/
+class SequenceFile {
+
+    /** Uncompressed bytes per gzip member. Each block is compressed on its own so it can be decompressed on its own.*/
+    private static final int BLOCK_SIZE = 1 << 20;
+
+    /** Size, in bytes, of the buffers and of the pipe between the decompressing thread and the parser.*/
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** Open a sequence file for writing. The returned stream must be closed to finish a compressed file.
+     * @param pathname - Name of the file to create
+     * @return a stream to print operations to
+     * @throws IOException if the file cannot be created*/
+    static PrintStream openOutput (String pathname) throws IOException {
+        OutputStream file = new FileOutputStream(pathname);
+        if (!isCompressed(pathname)) {
+            return new PrintStream(new BufferedOutputStream(file, BUFFER_SIZE));
+        }
+        return new PrintStream(new BufferedOutputStream(new BlockOutputStream(file), BUFFER_SIZE));
+    }
+
+    /** Open a sequence file for reading. A compressed file is decompressed on a separate thread, ahead of the parser.
+     * @param pathname - Name of the file to read
+     * @return a scanner over the operations in the file
+     * @throws IOException if the file cannot be opened or is not valid gzip*/
+    static Scanner openInput (String pathname) throws IOException {
+        File file = new File(pathname);
+        if (!isCompressed(pathname)) {
+            return new Scanner(file);
+        }
+        InputStream       compressed = new GZIPInputStream(new FileInputStream(file), BUFFER_SIZE);
+        PipedInputStream  pipeInput  = new PipedInputStream(BUFFER_SIZE);
+        PipedOutputStream pipeOutput = new PipedOutputStream(pipeInput);
+        Thread decompressor = new Thread(() -> {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try (compressed; pipeOutput) {
+                int count;
+                while ((count = compressed.read(buffer)) != -1) {
+                    pipeOutput.write(buffer, 0, count);
+                }
+            } catch (IOException e) {
+                System.err.printf("ERROR: Could not decompress file %s\n", pathname);
+                System.exit(1);
+            }
+        }, "SequenceFile");
+        decompressor.setDaemon(true);
+        decompressor.start();
+        return new Scanner(pipeInput);
+    }
+
+    private static boolean isCompressed (String pathname) {
+        return pathname.endsWith(".gz");
+    }
+
+    /** Write gzip data as a series of concatenated members of at most BLOCK_SIZE uncompressed bytes each.
+     * Standard gzip tools, and GZIPInputStream, read the result as one stream.*/
+    private static class BlockOutputStream extends OutputStream {
+
+        private OutputStream     _file;
+        private GZIPOutputStream _block;
+        private int              _blockBytes;
+
+        BlockOutputStream (OutputStream file) {
+            _file       = file;
+            _block      = null;
+            _blockBytes = 0;
+        }
+
+        public void write (int b) throws IOException {
+            write(new byte[] { (byte)b }, 0, 1);
+        }
+
+        public void write (byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                if (_block == null) {
+                    _block      = new GZIPOutputStream(new UnclosableOutputStream(_file), BUFFER_SIZE);
+                    _blockBytes = 0;
+                }
+                int count = Math.min(length, BLOCK_SIZE - _blockBytes);
+                _block.write(bytes, offset, count);
+                _blockBytes += count;
+                offset      += count;
+                length      -= count;
+                if (_blockBytes == BLOCK_SIZE) {
+                    endBlock();
+                }
+            }
+        }
+
+        public void close () throws IOException {
+            endBlock();
+            _file.close();
+        }
+
+        private void endBlock () throws IOException {
+            if (_block != null) {
+                _block.close();
+                _block = null;
+            }
+        }
+    }
+
+    /** Pass writes through to a stream but leave it open when closed, so one block ending does not end the file.*/
+    private static class UnclosableOutputStream extends OutputStream {
+
+        private OutputStream _out;
+
+        UnclosableOutputStream (OutputStream out) {
+            _out = out;
+        }
+
+        public void write (int b) throws IOException {
+            _out.write(b);
+        }
+
+        public void write (byte[] bytes, int offset, int length) throws IOException {
+            _out.write(bytes, offset, length);
+        }
+
+        public void close () throws IOException {
+            _out.flush();
+        }
+    }
+}
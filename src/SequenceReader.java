@@ -0,0 +1,63 @@
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+
+/**Read list operations from the lines of text in a sequence file.*/
+class SequenceReader implements OperationSource {
+
+    private Scanner input;
+    private int     line;
+    private int     operation;
+    private int     index;
+    private int     value;
+
+    SequenceReader (Scanner input) {
+        this.input = input;
+        line       = 0;
+    }
+
+    public boolean next () {
+        if (!input.hasNext()) {
+            return false;
+        }
+        line = line + 1;
+        String name = input.next();
+        operation = Operation.code(name);
+        if (operation == -1) {
+            System.out.printf("ERROR: Invalid operation %s at line %d\n",
+                    name,
+                    line);
+            System.exit(1);
+        }
+        index = Operation.takesIndex(operation) ? readInt() : -1;
+        value = Operation.takesValue(operation) ? readInt() : -1;
+        return true;
+    }
+
+    public int operation () {
+        return operation;
+    }
+
+    public int index () {
+        return index;
+    }
+
+    public int value () {
+        return value;
+    }
+
+    private int readInt () {
+
+        // Attempt to read and return an integer value from the input.
+        int result = -1;
+        try {
+            result = input.nextInt();
+        } catch (NoSuchElementException e) {
+            System.out.printf("ERROR: Could not read integer on line %d\n",
+                    line);
+            System.exit(1);
+        }
+
+        return result;
+
+    }
+}
@@ -0,0 +1,37 @@
+import java.io.IOException;
+import java.io.PrintStream;
+
+/**Write list operations as lines of text in a sequence file.*/
+class SequenceWriter implements OperationSink {
+
+    private PrintStream output;
+
+    SequenceWriter (PrintStream output) {
+        this.output = output;
+    }
+
+    public void write (int operation, int index, int value) {
+        String  name      = Operation.name(operation);
+        boolean withIndex = Operation.takesIndex(operation);
+        boolean withValue = Operation.takesValue(operation);
+        if (withIndex && withValue) {
+            output.printf("%6s %9d %9d\n", name, index, value);
+        } else if (withIndex) {
+            output.printf("%6s %9d\n", name, index);
+        } else if (withValue) {
+            output.printf("%6s %9d\n", name, value);
+        } else {
+            output.printf("%6s\n", name);
+        }
+    }
+
+    /** Close the file. PrintStream swallows write errors, so check for one here, after the last write and the
+     * compressed trailer, rather than leave a truncated file behind.
+     * @throws IOException if any write to the file failed*/
+    public void close () throws IOException {
+        output.close();
+        if (output.checkError()) {
+            throw new IOException("Could not write sequence");
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/**Generate a sequence of list operations and test it against an implementation of ListInterface in one run,
+ * passing the operations through an in-memory queue instead of an intermediate file.*/
+
+public class StreamList {
+
+    private OperationQueue queue;
+    private CreateList     creator;
+    private TestList       tester;
+    private Throwable      generatorFailure;
+
+    public static void main (String[] args) {
+        if (args.length != 3 && !(args.length == 4 && args[3].equals("quiet"))) {
+            showUsageAndExit();
+        }
+        // Extract the arguments.
+        String  className = args[0];
+        int     numOps    = 0;
+        long    seed      = 0;
+        boolean quiet     = args.length == 4;
+        try {
+            numOps = Integer.parseUnsignedInt(args[1]);
+            seed   = Long.parseUnsignedLong(args[2]);
+        } catch (NumberFormatException e) {
+            showUsageAndExit();
+        }
+        // Create the streaming tester and start it.
+        StreamList streamer = new StreamList(className, numOps, seed, quiet);
+        streamer.go();
+    }
+
+    public StreamList (String className, int numOps, long seed, boolean quiet) {
+
+        // The generator writes to one end of the queue and the tester reads from the other.
+        queue   = new OperationQueue();
+        creator = new CreateList(numOps, seed, queue);
+        tester  = new TestList(className, queue, quiet);
+    }
+
+    private void go () {
+
+        // The generator runs on its own thread, the tester consumes on this one until the queue is closed.
+        // The queue is closed even if the generator fails, so the tester is never left waiting for more.
+        Thread generator = new Thread(() -> {
+            try {
+                creator.go();
+            } catch (RuntimeException | Error e) {
+                generatorFailure = e;
+            } finally {
+                queue.close();
+            }
+        }, "CreateList");
+
+        // If the list under test throws something the tester does not expect, the generator must not keep the
+        // JVM alive waiting for room in the queue, so it is a daemon and is interrupted.
+        generator.setDaemon(true);
+        generator.start();
+        try {
+            tester.go();
+        } catch (RuntimeException | Error e) {
+            generator.interrupt();
+            throw e;
+        }
+        try {
+            generator.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (generatorFailure != null) {
+            System.err.printf("ERROR: Could not generate operations\n");
+            generatorFailure.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    private static void showUsageAndExit () {
+        System.err.printf("USAGE: java StreamList <ListInterface class>\n"+"<# ops>\n"+"<random seed>\n"+"[quiet]\n" );
+        System.exit(1);
+    }
+}
@@ -1,18 +1,18 @@
 import java.io.File;
-import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.lang.IllegalStateException;
-import java.util.InputMismatchException;
 import java.util.NoSuchElementException;
 import java.util.Random;
-import java.util.Scanner;
 
 /**Tester for implementation of a ListInterface against a known, correct implementation.*/
 
 public class TestList {
-    private ListInterface<Integer> referenceList;
+    private ListWrapper<Integer>   referenceList;
     private ListInterface<Integer> testList;
-    private Scanner          input;
+    private IntAggregates    testAggregates;
+    private OperationSource  input;
     private int              line;
+    private boolean          quiet;
 
     public static void main (String[] args) {
 
@@ -40,6 +40,7 @@ public class TestList {
         if (testList == null) {
             showUsageAndExit();
         }
+        testAggregates = testList instanceof IntAggregates ? (IntAggregates)testList : null;
 
         // Initialize the input and the line counter.
         File inputFile = new File(inputPathname);
@@ -48,50 +49,93 @@ public class TestList {
             showUsageAndExit();
         }
         try {
-            input = new Scanner(inputFile);
-        } catch (FileNotFoundException e) {
+            input = new SequenceReader(SequenceFile.openInput(inputPathname));
+        } catch (IOException e) {
             System.out.printf("ERROR: Could not open file %s\n", inputPathname);
             showUsageAndExit();
         }
         line  = 0;
+        quiet = false;
 
     }
 
-    private void go () {
+    /** Create a tester that reads its instructions from a source, such as an OperationQueue, rather than a file.
+     * A quiet tester reports only mismatches, not the contents of both lists before every instruction.*/
+    public TestList (String className, OperationSource inputSource, boolean quietOutput) {
+
+        // Create the reference list and the test list.
+        referenceList = new ListWrapper<Integer>();
+        testList      = createList(className);
+        if (testList == null) {
+            showUsageAndExit();
+        }
+        testAggregates = testList instanceof IntAggregates ? (IntAggregates)testList : null;
+
+        // Initialize the input and the line counter.
+        input = inputSource;
+        line  = 0;
+        quiet = quietOutput;
+
+    }
+
+    void go () {
 
         // Read instructions until there are no more.
         line = 0;
-        while (input.hasNext()) {
+        while (input.next()) {
 
-            // This call can be removed for less debugging output.
-            compare();
+            // Print both lists before each instruction, unless quiet.
+            if (!quiet) {
+                compare();
+            }
 
-            // Read the process the next instruction.
+            // Process the next instruction.
             line = line + 1;
-            String operation = input.next();
-            int    index     = -1;
-            int    value     = -1;
-            if (operation.equals("add")) {
-                index = readInt();
-                value = readInt();
-                add(index, value);
-            } else if (operation.equals("remove")) {
-                index = readInt();
-                remove(index);
-            } else if (operation.equals("get")) {
-                index = readInt();
-                get(index);
-            } else if (operation.equals("set")) {
-                index = readInt();
-                value = readInt();
-                set(index, value);
-            } else if (operation.equals("size")) {
-                size();
-            } else {
-                System.out.printf("ERROR: Invalid operation %s at line %d\n",
-                        operation,
-                        line);
-                System.exit(1);
+            int index = input.index();
+            int value = input.value();
+
+            // Aggregates are only checked on lists that implement them natively. Other lists skip them, and the
+            // reference list skips fill too, so both lists keep the same contents.
+            if (Operation.isAggregate(input.operation()) && testAggregates == null) {
+                continue;
+            }
+            switch (input.operation()) {
+                case Operation.ADD:
+                    add(index, value);
+                    break;
+                case Operation.REMOVE:
+                    remove(index);
+                    break;
+                case Operation.GET:
+                    get(index);
+                    break;
+                case Operation.SET:
+                    set(index, value);
+                    break;
+                case Operation.SIZE:
+                    size();
+                    break;
+                case Operation.INDEX_OF:
+                    indexOf(value);
+                    break;
+                case Operation.LAST_INDEX_OF:
+                    lastIndexOf(value);
+                    break;
+                case Operation.CONTAINS:
+                    contains(value);
+                    break;
+                case Operation.SUM:
+                    sum();
+                    break;
+                case Operation.MIN:
+                    min();
+                    break;
+                case Operation.MAX:
+                    max();
+                    break;
+                case Operation.FILL:
+                    fill(value);
+                    break;
             }
 
         }
@@ -106,11 +150,15 @@ public class TestList {
 
     }
 
-    private static ListInterface<Integer> createList (String className) {
+    static ListInterface<Integer> createList (String className) {
 
         ListInterface<Integer> list = null;
         if (className.equals("MyArrayList")) {
             list = new MyArrayList<Integer>();
+        } else if (className.equals("MyIndexedArrayList")) {
+            list = new MyArrayList<Integer>(true);
+        } else if (className.equals("MyIntArrayList")) {
+            list = new MyIntArrayList();
         } else if (className.equals("MyLinkedList")) {
             list = new MyLinkedList<Integer>();
         }
@@ -119,22 +167,6 @@ public class TestList {
 
     }
 
-    private int readInt () {
-
-        // Attempt to read and return an integer value from the input.
-        int value = -1;
-        try {
-            value = input.nextInt();
-        } catch (InputMismatchException e) {
-            System.out.printf("ERROR: Could not read integer on line %d\n",
-                    line);
-            System.exit(1);
-        }
-
-        return value;
-
-    }
-
     private void add (int index, int value) {
 
         // Insert the value into the reference list.
@@ -281,6 +313,157 @@ public class TestList {
         }
 
     }
+    private void indexOf (int value) {
+
+        // Search for the value in both the reference list and the test list.
+        int referenceIndex = referenceList.indexOf(value);
+        int testIndex      = testList.indexOf(value);
+
+        // Did both find it at the same position?
+        if (referenceIndex != testIndex) {
+            System.out.printf("MISMATCH <%9d>: %6s %9d\n"      +
+                            "                ref  = %9d\n" +
+                            "                test = %9d\n",
+                    line, "indexOf", value,
+                    referenceIndex,
+                    testIndex);
+        }
+
+    }
+
+    private void lastIndexOf (int value) {
+
+        // Search backward for the value in both the reference list and the test list.
+        int referenceIndex = referenceList.lastIndexOf(value);
+        int testIndex      = testList.lastIndexOf(value);
+
+        // Did both find it at the same position?
+        if (referenceIndex != testIndex) {
+            System.out.printf("MISMATCH <%9d>: %6s %9d\n"      +
+                            "                ref  = %9d\n" +
+                            "                test = %9d\n",
+                    line, "lastIndexOf", value,
+                    referenceIndex,
+                    testIndex);
+        }
+
+    }
+
+    private void contains (int value) {
+
+        // Check for the value in both the reference list and the test list.
+        boolean referenceFound = referenceList.contains(value);
+        boolean testFound      = testList.contains(value);
+
+        // Did both agree on whether it is present?
+        if (referenceFound != testFound) {
+            System.out.printf("MISMATCH <%9d>: %6s %9d\n"      +
+                            "                ref  = %9b\n" +
+                            "                test = %9b\n",
+                    line, "contains", value,
+                    referenceFound,
+                    testFound);
+        }
+
+    }
+
+    private void sum () {
+
+        // Add up the reference list by iterating over it.
+        long referenceSum = 0;
+        for (int element : referenceList) {
+            referenceSum += element;
+        }
+
+        // Add up the test list.
+        long testSum = testAggregates.sum();
+
+        // Did both return the same sum?
+        if (referenceSum != testSum) {
+            System.out.printf("MISMATCH <%9d>: %6s\n"       +
+                            "                ref  = %9d\n" +
+                            "                test = %9d\n",
+                    line, "sum",
+                    referenceSum,
+                    testSum);
+        }
+
+    }
+
+    private void min () {
+
+        // Find the smallest element of the reference list by iterating over it.
+        Result referenceResult = referenceList.size() == 0 ? Result.EMPTY_FAIL : Result.SUCCESS;
+        int    referenceValue  = -1;
+        if (referenceResult == Result.SUCCESS) {
+            referenceValue = Integer.MAX_VALUE;
+            for (int element : referenceList) {
+                referenceValue = Math.min(referenceValue, element);
+            }
+        }
+
+        // Find the smallest element of the test list.
+        Result testResult = Result.SUCCESS;
+        int    testValue  = -1;
+        try {
+            testValue = testAggregates.min();
+        } catch (NoSuchElementException e) {
+            testResult = Result.EMPTY_FAIL;
+        }
+
+        // Did both succeed/fail in the same way?
+        if (referenceResult != testResult || referenceValue != testValue) {
+            System.out.printf("MISMATCH <%9d>: %6s\n"      +
+                            "                ref  = %10s / %9d\n" +
+                            "                test = %10s / %9d\n",
+                    line, "min",
+                    referenceResult, referenceValue,
+                    testResult,      testValue);
+        }
+
+    }
+
+    private void max () {
+
+        // Find the largest element of the reference list by iterating over it.
+        Result referenceResult = referenceList.size() == 0 ? Result.EMPTY_FAIL : Result.SUCCESS;
+        int    referenceValue  = -1;
+        if (referenceResult == Result.SUCCESS) {
+            referenceValue = Integer.MIN_VALUE;
+            for (int element : referenceList) {
+                referenceValue = Math.max(referenceValue, element);
+            }
+        }
+
+        // Find the largest element of the test list.
+        Result testResult = Result.SUCCESS;
+        int    testValue  = -1;
+        try {
+            testValue = testAggregates.max();
+        } catch (NoSuchElementException e) {
+            testResult = Result.EMPTY_FAIL;
+        }
+
+        // Did both succeed/fail in the same way?
+        if (referenceResult != testResult || referenceValue != testValue) {
+            System.out.printf("MISMATCH <%9d>: %6s\n"      +
+                            "                ref  = %10s / %9d\n" +
+                            "                test = %10s / %9d\n",
+                    line, "max",
+                    referenceResult, referenceValue,
+                    testResult,      testValue);
+        }
+
+    }
+
+    private void fill (int value) {
+
+        // Fill both lists; any difference shows up in later operations.
+        referenceList.fill(value);
+        testAggregates.fill(value);
+
+    }
+
     private void compare () {
         if (referenceList.size() != testList.size()) {
             System.out.printf("<%d> size mismatch: ref = %d, test = %d\n",
@@ -0,0 +1,111 @@
+import java.util.Arrays;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**IntKernels written with the jdk.incubator.vector API, using the widest vectors the CPU offers.
+ * Compile with {@code --add-modules jdk.incubator.vector}; IntKernels.fastest() loads this class only when the
+ * module is also added at run time.*/
+class VectorIntKernels implements IntKernels {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long>    LONGS   = LongVector.SPECIES_PREFERRED;
+    private static final int                    LANES   = SPECIES.length();
+
+    /** System.arraycopy is an intrinsic that already copies with the widest vectors; a Vector API loop measured slower.*/
+    public void copy (int[] array, int srcPos, int destPos, int length) {
+        System.arraycopy(array, srcPos, array, destPos, length);
+    }
+
+    /** Arrays.fill is compiled to vector stores already; a Vector API loop measured slower.*/
+    public void fill (int[] array, int from, int to, int value) {
+        Arrays.fill(array, from, to, value);
+    }
+
+    public int indexOf (int[] array, int from, int to, int value) {
+        int i     = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        for (; i < bound; i += LANES) {
+            VectorMask<Integer> found = IntVector.fromArray(SPECIES, array, i).eq(value);
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        for (; i < to; i += 1) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int lastIndexOf (int[] array, int from, int to, int value) {
+        int i;
+        for (i = to - LANES; i >= from; i -= LANES) {
+            VectorMask<Integer> found = IntVector.fromArray(SPECIES, array, i).eq(value);
+            if (found.anyTrue()) {
+                return i + found.lastTrue();
+            }
+        }
+        for (i = i + LANES - 1; i >= from; i -= 1) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public long sum (int[] array, int from, int to) {
+        // Each int vector widens into two long vectors, its low and its high lanes, so the sum cannot overflow.
+        LongVector total = LongVector.zero(LONGS);
+        int i     = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        for (; i < bound; i += LANES) {
+            IntVector values = IntVector.fromArray(SPECIES, array, i);
+            total = total.add((LongVector) values.convertShape(VectorOperators.I2L, LONGS, 0))
+                         .add((LongVector) values.convertShape(VectorOperators.I2L, LONGS, 1));
+        }
+        long result = total.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i += 1) {
+            result += array[i];
+        }
+        return result;
+    }
+
+    public int min (int[] array, int from, int to) {
+        int result = array[from];
+        int i      = from;
+        int bound  = from + SPECIES.loopBound(to - from);
+        if (i < bound) {
+            IntVector minimum = IntVector.fromArray(SPECIES, array, i);
+            for (i += LANES; i < bound; i += LANES) {
+                minimum = minimum.min(IntVector.fromArray(SPECIES, array, i));
+            }
+            result = minimum.reduceLanes(VectorOperators.MIN);
+        }
+        for (; i < to; i += 1) {
+            result = Math.min(result, array[i]);
+        }
+        return result;
+    }
+
+    public int max (int[] array, int from, int to) {
+        int result = array[from];
+        int i      = from;
+        int bound  = from + SPECIES.loopBound(to - from);
+        if (i < bound) {
+            IntVector maximum = IntVector.fromArray(SPECIES, array, i);
+            for (i += LANES; i < bound; i += LANES) {
+                maximum = maximum.max(IntVector.fromArray(SPECIES, array, i));
+            }
+            result = maximum.reduceLanes(VectorOperators.MAX);
+        }
+        for (; i < to; i += 1) {
+            result = Math.max(result, array[i]);
+        }
+        return result;
+    }
+}